@@ -2,8 +2,10 @@ import com.jagrosh.jdautilities.commons.waiter.EventWaiter;
 import commands.*;
 import events.CommentWatcher;
 import net.dv8tion.jda.api.JDABuilder;
+import stats.SubmissionStats;
 
 import javax.security.auth.login.LoginException;
+import java.io.File;
 
 /**
  * Main class for TokenBot (public version). This public version is intended
@@ -43,8 +45,19 @@ public class Main {
         EventWaiter waiter = new EventWaiter();
         builder.addEventListeners(waiter);
 
+        // stats checkpoint path (see SubmissionStats for storage requirements)
+        String statsPath = System.getenv("STATS_FILE") != null ? System.getenv("STATS_FILE") : "stats.dat";
+
+        // stats (restored from last checkpoint, written again on shutdown)
+        SubmissionStats stats = SubmissionStats.load(new File(statsPath), 5);
+        stats.startCheckpointing();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            stats.stopCheckpointing();
+            stats.checkpoint();
+        }));
+
         // comments
-        CommentWatcher comments = new CommentWatcher(curatorID, targetChannelID, 0, true, waiter);
+        CommentWatcher comments = new CommentWatcher(curatorID, targetChannelID, 0, true, waiter, stats);
 
         // commands
         TBBalanceCommand tbBalanceCommand = new TBBalanceCommand();
@@ -52,6 +65,7 @@ public class Main {
         TBHelpCommand tbHelpCommand = new TBHelpCommand(helpChannelID);
         TBLevelCommand tbLevelCommand = new TBLevelCommand(tokens);
         TBSlotsCommand tbSlotsCommand = new TBSlotsCommand(targetChannelID);
+        TBStatsCommand tbStatsCommand = new TBStatsCommand(stats);
 
         // add event listeners and build
         builder.addEventListeners(comments);
@@ -60,6 +74,7 @@ public class Main {
         builder.addEventListeners(tbHelpCommand);
         builder.addEventListeners(tbLevelCommand);
         builder.addEventListeners(tbSlotsCommand);
+        builder.addEventListeners(tbStatsCommand);
 
         builder.build();
     }
@@ -1,9 +1,11 @@
 package commands;
 
+import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -13,7 +15,7 @@ import java.util.Objects;
  * Note: Token name is currently hardcoded.
  *
  * @author      Daniel Almeida
- * @version     11/2/20
+ * @version     10/19/26
  */
 public class TBBalanceCommand extends ListenerAdapter {
     /**
@@ -28,11 +30,14 @@ public class TBBalanceCommand extends ListenerAdapter {
 
         // if it's the command
         if (message.equals("]balance")) {
+            // grab roles once (each call builds a new sorted list)
+            List<Role> roles = Objects.requireNonNull(e.getMember()).getRoles();
+
             // count number of tokens
             int nTokens = 0;
 
-            for (int i = 0; i < Objects.requireNonNull(e.getMember()).getRoles().size(); i++) {
-                if (e.getMember().getRoles().get(i).getName().contains("PBToken")) {
+            for (int i = 0; i < roles.size(); i++) {
+                if (roles.get(i).getName().contains("PBToken")) {
                     // increase count
                     nTokens++;
                 }
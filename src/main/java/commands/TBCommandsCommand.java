@@ -1,6 +1,7 @@
 package commands;
 
 import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
@@ -10,8 +11,10 @@ import java.awt.*;
 /**
  * This is the commands command. Returns an embed of commands available.
  *
+ * Note: The embed is built once, server specific inputs don't change at runtime.
+ *
  * @author      Daniel Almeida
- * @version     11/4/20
+ * @version     10/19/26
  */
 public class TBCommandsCommand extends ListenerAdapter {
     // array of commands
@@ -20,8 +23,18 @@ public class TBCommandsCommand extends ListenerAdapter {
             {"]commands", "List of commands"},
             {"]level", "Token levels"},
             {"]slots", "Available submission slots"},
+            {"]stats", "Submission stats"},
             {"]help", "Help info"}};
 
+    private final MessageEmbed embed; // rendered commands embed
+
+    /**
+     * Constructor builds the commands embed.
+     */
+    public TBCommandsCommand() {
+        embed = render();
+    }
+
     /**
      * Return an embed containing all commands and their functions.
      *
@@ -33,28 +46,37 @@ public class TBCommandsCommand extends ListenerAdapter {
 
         // if it's the command, return a list of commands and their functions
         if (message.equals("]commands")) {
-            // embed builder
-            EmbedBuilder eb = new EmbedBuilder();
+            // reply
+            e.getChannel().sendMessage(embed).queue();
+        }
 
-            eb.setTitle("TokenBot Commands");
-            eb.setColor(new Color(255,178,113));
-            eb.setThumbnail("https://static.wikia.nocookie.net/great-characters/images/2/22/" +
-                    "Fujiwara.Chika.full.2474576.png/revision/latest/top-crop/width/360/height/450?cb=20191102191124");
+    }
 
-            // add fields
-            for (String[] command : commands) {
-                eb.addField(command[0], "`" + command[1] + "`", true);
-            }
+    /**
+     * Build the commands embed.
+     *
+     * @return      commands embed
+     */
+    private MessageEmbed render() {
+        // embed builder
+        EmbedBuilder eb = new EmbedBuilder();
 
-            // format clean-up
-            for (int i = commands.length; i < (int)(3 * Math.floor((commands.length + 3) / 3)); i++) {
-                eb.addBlankField(true);
-            }
+        eb.setTitle("TokenBot Commands");
+        eb.setColor(new Color(255,178,113));
+        eb.setThumbnail("https://static.wikia.nocookie.net/great-characters/images/2/22/" +
+                "Fujiwara.Chika.full.2474576.png/revision/latest/top-crop/width/360/height/450?cb=20191102191124");
 
-            // reply
-            e.getChannel().sendMessage(eb.build()).queue();
+        // add fields
+        for (String[] command : commands) {
+            eb.addField(command[0], "`" + command[1] + "`", true);
+        }
+
+        // format clean-up
+        for (int i = commands.length; i < (commands.length + 2) / 3 * 3; i++) {
+            eb.addBlankField(true);
         }
 
+        return eb.build();
     }
 
 }
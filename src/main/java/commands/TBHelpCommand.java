@@ -1,6 +1,7 @@
 package commands;
 
 import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
@@ -12,19 +13,25 @@ import java.awt.*;
  *
  * Provides some text to help caller get started with the bot.
  *
+ * Note: The embed is built once, server specific inputs don't change at runtime.
+ *
  * @author      Daniel Almeida
- * @version     11/4/20
+ * @version     10/19/26
  */
 public class TBHelpCommand extends ListenerAdapter {
     // variables & constants
     String infoChId;
+    private final MessageEmbed embed; // rendered help embed
 
     /**
      * Constructor for the server's info channel ID.
      *
      * @param ch        info channel ID
      */
-    public TBHelpCommand(String ch) { infoChId = ch; }
+    public TBHelpCommand(String ch) {
+        infoChId = ch;
+        embed = render();
+    }
 
     /**
      * Reply with a help message providing caller with how-to information regarding
@@ -37,23 +44,32 @@ public class TBHelpCommand extends ListenerAdapter {
         String message = e.getMessage().getContentRaw();
 
         if (message.equals("]help")) {
-            // embed builder
-            EmbedBuilder eb = new EmbedBuilder();
+            // reply
+            e.getChannel().sendMessage(embed).queue();
+        }
 
-            eb.setTitle("TokenBot");
-            eb.setColor(new Color(255,178,113));
+    }
 
-            String msg = "\nHi, i'm TokenBot and I was built to help manage submissions on this server " +
-                    "^_^\n\n" +
-                        "To learn how to submit, check out the <#" + infoChId + "> channel for full instructions.\n\n" +
-                            "I also provide some commands `]commands` that you may use, check them out!";
+    /**
+     * Build the help embed.
+     *
+     * @return      help embed
+     */
+    private MessageEmbed render() {
+        // embed builder
+        EmbedBuilder eb = new EmbedBuilder();
 
-            eb.addField("`Version 1.0`", msg, true);
+        eb.setTitle("TokenBot");
+        eb.setColor(new Color(255,178,113));
 
-            // reply
-            e.getChannel().sendMessage(eb.build()).queue();
-        }
+        String msg = "\nHi, i'm TokenBot and I was built to help manage submissions on this server " +
+                "^_^\n\n" +
+                    "To learn how to submit, check out the <#" + infoChId + "> channel for full instructions.\n\n" +
+                        "I also provide some commands `]commands` that you may use, check them out!";
+
+        eb.addField("`Version 1.0`", msg, true);
 
+        return eb.build();
     }
 
 }
@@ -1,9 +1,11 @@
 package commands;
 
+import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -14,11 +16,12 @@ import java.util.Objects;
  * Note: Token name is currently hardcoded.
  *
  * @author      Daniel Almeida
- * @version     11/3/20
+ * @version     10/19/26
  */
 public class TBLevelCommand extends ListenerAdapter {
     // variables & constants
     private final String[] tokens;
+    private final String[] levelReplies; // reply text following the mention, per token level
 
     /**
      * Constructor to initialize an array of server specific token IDs
@@ -27,6 +30,13 @@ public class TBLevelCommand extends ListenerAdapter {
      */
     public TBLevelCommand(String[] t) {
         tokens = t;
+
+        // level is fixed per token, only the mention changes
+        levelReplies = new String[t.length];
+
+        for (int j = 0; j < t.length; j++) {
+            levelReplies[j] = ">, you have a level " + ((j+1) * (5)) + " token.";
+        }
     }
 
     /**
@@ -47,22 +57,24 @@ public class TBLevelCommand extends ListenerAdapter {
             // set no token flag
             boolean noTokens = true;
 
+            // grab roles once (each call builds a new sorted list)
+            List<Role> roles = Objects.requireNonNull(e.getMember()).getRoles();
+
             // cycle through roles
-            for (int i = 0; i < Objects.requireNonNull(e.getMember()).getRoles().size(); i++) {
+            for (int i = 0; i < roles.size(); i++) {
                 // has roles
                 noRoles = false;
 
                 // check the role is a token
-                if (e.getMember().getRoles().get(i).getName().contains("PBToken")) {
+                if (roles.get(i).getName().contains("PBToken")) {
                     // has a token
                     noTokens = false;
 
                     // cycle through token id array
                     for (int j = 0; j < tokens.length; j++) {
                         // cross-reference caller's token ID with tokens array to determine token's level
-                        if (tokens[j].equals(e.getMember().getRoles().get(i).getId())) {
-                            e.getChannel().sendMessage("<@" + e.getAuthor().getId() +
-                                    ">, you have a level " + ((j+1) * (5)) + " token.").queue();
+                        if (tokens[j].equals(roles.get(i).getId())) {
+                            e.getChannel().sendMessage("<@" + e.getAuthor().getId() + levelReplies[j]).queue();
                         }
                     }
                 }
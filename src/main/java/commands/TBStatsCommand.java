@@ -0,0 +1,136 @@
+package commands;
+
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import org.jetbrains.annotations.NotNull;
+import stats.SubmissionStats;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is the stats command. Returns an embed with submission statistics: top submitters,
+ * acceptance rate, average curator decision time and current queue age.
+ *
+ * Note: The numbers come from running aggregates kept by SubmissionStats, no history is scanned.
+ *
+ * @author      Daniel Almeida
+ * @version     10/19/26
+ */
+public class TBStatsCommand extends ListenerAdapter {
+    // variables & constants
+    private final SubmissionStats stats;
+
+    // constant parts of the embed (title, colour) and histogram labels, built once
+    private static final MessageEmbed BASE = new EmbedBuilder()
+            .setTitle("TokenBot Stats")
+            .setColor(new Color(255,178,113))
+            .build();
+    private static final String[] LABELS = histogramLabels();
+
+    /**
+     * Constructor for the stats shared with CommentWatcher.
+     *
+     * @param s     submission stats
+     */
+    public TBStatsCommand(SubmissionStats s) {
+        stats = s;
+    }
+
+    /**
+     * Reply with an embed of the current submission statistics.
+     *
+     * @param e     guild message event
+     */
+    @Override
+    public void onGuildMessageReceived(@NotNull GuildMessageReceivedEvent e) {
+        // grab message
+        String message = e.getMessage().getContentRaw();
+
+        if (message.equals("]stats")) {
+            SubmissionStats.Snapshot s = stats.snapshot(System.currentTimeMillis());
+
+            // embed builder (starts from the constant parts)
+            EmbedBuilder eb = new EmbedBuilder(BASE);
+
+            // leaderboard
+            StringBuilder top = new StringBuilder();
+
+            for (int i = 0; i < s.topIds.length; i++) {
+                top.append(i + 1).append(". <@").append(s.topIds[i]).append("> - ").append(s.topCounts[i]).append('\n');
+            }
+
+            eb.addField("Top Submitters", top.length() == 0 ? "`None yet`" : top.toString(), false);
+
+            // counters
+            eb.addField("Submissions", "`" + s.submitted + "`", true);
+            eb.addField("Removed", "`" + s.rejected + "`", true);
+            eb.addField("Acceptance Rate", s.acceptanceRate() < 0 ? "`N/A`" :
+                    "`" + Math.round(s.acceptanceRate() * 100) + "% (" + s.accepted + "/" +
+                        (s.accepted + s.denied) + ")`", true);
+
+            // decision times
+            eb.addField("Avg. Decision Time", s.avgDecisionTime < 0 ? "`N/A`" :
+                    "`" + formatTime(s.avgDecisionTime) + "`", true);
+            eb.addField("Pending", "`" + s.pendingCount + "`", true);
+            eb.addField("Queue Age", s.queueAge < 0 ? "`Empty`" : "`" + formatTime(s.queueAge) + "`", true);
+
+            // histogram
+            StringBuilder hist = new StringBuilder("```");
+
+            for (int i = 0; i < s.histogram.length; i++) {
+                hist.append(LABELS[i]).append(s.histogram[i]).append('\n');
+            }
+
+            eb.addField("Decision Times", hist.append("```").toString(), false);
+
+            // reply
+            e.getChannel().sendMessage(eb.build()).queue();
+        }
+
+    }
+
+    /**
+     * Build the histogram bucket labels (e.g. "5-15m: "), the last bucket is open-ended.
+     *
+     * @return      one label per histogram bucket
+     */
+    private static String[] histogramLabels() {
+        long[] bounds = SubmissionStats.BUCKET_BOUNDS;
+        String[] labels = new String[bounds.length + 1];
+        long lower = 0;
+
+        for (int i = 0; i < bounds.length; i++) {
+            labels[i] = lower + "-" + bounds[i] + "m: ";
+            lower = bounds[i];
+        }
+
+        labels[bounds.length] = lower + "m+: ";
+
+        return labels;
+    }
+
+    /**
+     * Format a duration as days/hours/minutes.
+     *
+     * @param ms    duration in milliseconds
+     * @return      formatted duration
+     */
+    private String formatTime(long ms) {
+        long days = TimeUnit.MILLISECONDS.toDays(ms);
+        long hours = TimeUnit.MILLISECONDS.toHours(ms) % 24;
+        long minutes = TimeUnit.MILLISECONDS.toMinutes(ms) % 60;
+
+        if (days > 0) {
+            return days + "d " + hours + "h";
+        }
+        else if (hours > 0) {
+            return hours + "h " + minutes + "m";
+        }
+
+        return minutes + "m";
+    }
+
+}
@@ -3,15 +3,20 @@ package events;
 import com.jagrosh.jdautilities.commons.waiter.EventWaiter;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageChannel;
+import net.dv8tion.jda.api.entities.TextChannel;
 import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.ReadyEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import net.dv8tion.jda.api.events.message.guild.GuildMessageDeleteEvent;
 import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
 import net.dv8tion.jda.api.events.message.guild.react.GuildMessageReactionAddEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.requests.RestAction;
+import stats.SubmissionStats;
 
 import javax.annotation.Nonnull;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -22,7 +27,7 @@ import java.util.concurrent.TimeUnit;
  * Note: Token name is currently hardcoded.
  *
  * @author      Daniel Almeida
- * @version     10/31/20
+ * @version     10/19/26
  */
 public class CommentWatcher extends ListenerAdapter {
     // variables & constants
@@ -31,6 +36,7 @@ public class CommentWatcher extends ListenerAdapter {
     private final boolean godMode; // allows posting without token (can be enabled for maintenance purposes)
     private final String curatorID; // curator
     private final EventWaiter waiter; // EventWaiter
+    private final SubmissionStats stats; // submission stats
 
     /**
      * Constructor for CommentWatcher initializes variables.
@@ -40,11 +46,13 @@ public class CommentWatcher extends ListenerAdapter {
      * @param IC        no. of permanent info/instruction messages in channel
      * @param gm        decide whether no-token posts are deleted or not
      * @param w         event waiter
+     * @param s         submission stats
      */
-    public CommentWatcher(String cu, String ch, int IC, boolean gm, EventWaiter w) {
+    public CommentWatcher(String cu, String ch, int IC, boolean gm, EventWaiter w, SubmissionStats s) {
         curatorID = cu;
         chId = ch;
         waiter = w;
+        stats = s;
         INFO_COUNT = IC;
         godMode = gm;
     }
@@ -103,9 +111,15 @@ public class CommentWatcher extends ListenerAdapter {
             }
 
             // remove token (if submission was successful)
-            if (!commentRemoved) {
+            if (commentRemoved) {
+                stats.recordRejection();
+            }
+            else {
                 removeToken(event);
 
+                stats.recordSubmission(messageSent.getId(), user.getId(),
+                        messageSent.getTimeCreated().toInstant().toEpochMilli());
+
                 sendSecretMessage(user, "<@" + user.getId() + ">, " +
                     "your submission (entry #: " + (n + 1) + ") was successful!\n\n" +
                         "Once a decisions has been made, you will receive a message letting " +
@@ -128,6 +142,42 @@ public class CommentWatcher extends ListenerAdapter {
 
     }
 
+    /**
+     * Once the bot is ready, drop pending submissions from the stats that were removed from the
+     * submission channel while the bot was offline.
+     *
+     * Note: The channel holds at most a handful of submissions, so one page of history covers it.
+     *
+     * @param event     ready event
+     */
+    @Override
+    public void onReady(@Nonnull ReadyEvent event) {
+        // grab channel
+        TextChannel ch = event.getJDA().getTextChannelById(chId);
+
+        if (ch == null) {
+            return;
+        }
+
+        ch.getHistoryFromBeginning(100).queue(history -> stats.retainPending(history.getRetrievedHistory()
+                .stream().map(Message::getId).collect(Collectors.toSet())));
+    }
+
+    /**
+     * This function is called every time a guild message is deleted.
+     *
+     * A submission removed from the submission channel (by its author, a mod or by hand) is
+     * no longer waiting for a decision, so it is dropped from the pending queue stats.
+     *
+     * @param event     event triggering function call
+     */
+    @Override
+    public void onGuildMessageDelete(@Nonnull GuildMessageDeleteEvent event) {
+        if (event.getChannel().getId().equals(chId)) {
+            stats.recordRemoval(event.getMessageId());
+        }
+    }
+
     /**
      * Given an event, return the number of messages before message
      * corresponding to the event.
@@ -253,6 +303,8 @@ public class CommentWatcher extends ListenerAdapter {
                             // bot actions for 'y' and 'n'
                             switch(e.getMessage().getContentRaw()) {
                                 case "y":
+                                    stats.recordDecision(mess.getId(), System.currentTimeMillis(), true);
+
                                     // send author accepted message
                                     sendSecretMessage(commentAuthor, "<@" + commentAuthor.getId() + ">, " +
                                             "your comment submission (" + mess.getContentRaw() + ") was accepted!",
@@ -261,6 +313,8 @@ public class CommentWatcher extends ListenerAdapter {
                                     m.complete().delete().queue(); // delete link
                                     break;
                                 case "n":
+                                    stats.recordDecision(mess.getId(), System.currentTimeMillis(), false);
+
                                     // send author denied message
                                     sendSecretMessage(commentAuthor, "<@" + commentAuthor.getId() + ">, " +
                                             "your comment submission (" + mess.getContentRaw() + ") was denied.",
@@ -0,0 +1,451 @@
+package stats;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is the SubmissionStats class. It keeps running aggregates of submission activity
+ * (counters, top submitters, curator decision times and the pending queue) which are
+ * updated by CommentWatcher as events happen, so the stats command never has to scan
+ * channel history.
+ *
+ * Aggregates are checkpointed to a file periodically and can be reloaded on start-up.
+ *
+ * Note: The checkpoint only survives restarts if its file is on persistent storage. A Heroku
+ *       dyno's local filesystem is wiped on every restart, so set the STATS_FILE env var to a
+ *       persistent location when deploying there.
+ *
+ * @author      Daniel Almeida
+ * @version     10/19/26
+ */
+public class SubmissionStats {
+    // variables & constants
+    private static final int FILE_VERSION = 1; // checkpoint format version
+    private static final int CHECKPOINT_PERIOD = 60; // seconds between checkpoints
+
+    // decision time histogram bucket upper bounds (minutes), the last bucket is open-ended
+    public static final long[] BUCKET_BOUNDS = new long[] {5, 15, 60, 360, 1440};
+
+    private final File file; // checkpoint file
+    private final int topK; // leaderboard size
+
+    private long submitted; // successful submissions
+    private long rejected; // submissions removed by the bot (format/limit)
+    private long accepted; // accepted by curator
+    private long denied; // denied by curator
+
+    private long decisionTimeSum; // sum of decision times (ms)
+    private final long[] histogram = new long[BUCKET_BOUNDS.length + 1]; // decision time histogram
+
+    private final Map<String, Long> userCounts = new HashMap<>(); // submissions per user ID
+    private final String[] topIds; // top submitters, sorted by count (descending)
+    private final long[] topCounts; // counts matching topIds
+    private int topSize; // number of occupied leaderboard slots
+
+    // pending submissions (message ID -> posted time), insertion order means oldest first
+    private final LinkedHashMap<String, Long> pending = new LinkedHashMap<>();
+
+    private final Object fileLock = new Object(); // serializes checkpoint writes
+    private long changes; // number of changes made to the aggregates
+    private long savedChanges; // value of changes in the last written checkpoint
+    private ScheduledExecutorService scheduler; // checkpoint scheduler
+
+    /**
+     * Constructor for SubmissionStats initializes empty aggregates.
+     *
+     * @param f     checkpoint file
+     * @param k     number of top submitters to keep (at least 1)
+     */
+    public SubmissionStats(File f, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Leaderboard size must be positive, got " + k + ".");
+        }
+
+        file = f;
+        topK = k;
+        topIds = new String[k];
+        topCounts = new long[k];
+    }
+
+    /**
+     * Create a SubmissionStats, restoring aggregates from the checkpoint file if one exists.
+     *
+     * Note: An unreadable checkpoint is reported to console and the stats start empty.
+     *
+     * @param f     checkpoint file
+     * @param k     number of top submitters to keep
+     * @return      stats instance
+     */
+    public static SubmissionStats load(File f, int k) {
+        SubmissionStats stats = new SubmissionStats(f, k);
+
+        if (f.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(f)))) {
+                stats.read(in);
+            } catch (IOException ex) {
+                System.out.println("Could not restore stats checkpoint: " + ex.getMessage());
+
+                return new SubmissionStats(f, k);
+            }
+        }
+
+        return stats;
+    }
+
+    /**
+     * Start writing checkpoints in the background (only when something changed).
+     */
+    public synchronized void startCheckpointing() {
+        if (scheduler != null) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "stats-checkpoint");
+            t.setDaemon(true);
+
+            return t;
+        });
+
+        scheduler.scheduleWithFixedDelay(this::checkpoint, CHECKPOINT_PERIOD, CHECKPOINT_PERIOD, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stop background checkpoints, waiting for one in progress to finish.
+     */
+    public void stopCheckpointing() {
+        ScheduledExecutorService s;
+
+        synchronized (this) {
+            s = scheduler;
+            scheduler = null;
+        }
+
+        if (s == null) {
+            return;
+        }
+
+        s.shutdown();
+
+        try {
+            s.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Record a successful submission posted in the submission channel.
+     *
+     * @param messageId     submission message ID
+     * @param userId        submitting user's ID
+     * @param postedAt      time the submission was posted (ms)
+     */
+    public synchronized void recordSubmission(String messageId, String userId, long postedAt) {
+        submitted++;
+        pending.put(messageId, postedAt);
+
+        long count = userCounts.merge(userId, 1L, Long::sum);
+        updateTop(userId, count);
+
+        changes++;
+    }
+
+    /**
+     * Record a submission removed by the bot (bad format or no slots).
+     */
+    public synchronized void recordRejection() {
+        rejected++;
+        changes++;
+    }
+
+    /**
+     * Record a curator decision on a submission.
+     *
+     * Note: Only pending submissions are counted, so repeated decisions on the same submission
+     *       (or decisions on untracked messages) are ignored.
+     *
+     * @param messageId     submission message ID
+     * @param decidedAt     time the decision was made (ms)
+     * @param wasAccepted   true if the curator accepted the submission
+     */
+    public synchronized void recordDecision(String messageId, long decidedAt, boolean wasAccepted) {
+        Long postedAt = pending.remove(messageId);
+
+        if (postedAt == null) {
+            return;
+        }
+
+        if (wasAccepted) {
+            accepted++;
+        }
+        else {
+            denied++;
+        }
+
+        // add to decision time aggregates
+        long time = Math.max(0, decidedAt - postedAt);
+        long minutes = TimeUnit.MILLISECONDS.toMinutes(time);
+        int b = 0;
+
+        while (b < BUCKET_BOUNDS.length && minutes >= BUCKET_BOUNDS[b]) {
+            b++;
+        }
+
+        histogram[b]++;
+        decisionTimeSum += time;
+
+        changes++;
+    }
+
+    /**
+     * Record a submission removed from the channel without a curator decision
+     * (deleted by its author, a mod, or by hand).
+     *
+     * @param messageId     submission message ID
+     */
+    public synchronized void recordRemoval(String messageId) {
+        if (pending.remove(messageId) != null) {
+            changes++;
+        }
+    }
+
+    /**
+     * Drop pending submissions that are no longer in the submission channel (e.g. deleted
+     * while the bot was offline).
+     *
+     * @param messageIds    IDs of the messages currently in the submission channel
+     */
+    public synchronized void retainPending(Set<String> messageIds) {
+        if (pending.keySet().retainAll(messageIds)) {
+            changes++;
+        }
+    }
+
+    /**
+     * Keep the leaderboard sorted after a user's count went up. Counts only increase,
+     * so a user outside the leaderboard can only enter by passing the last place.
+     *
+     * @param userId    user whose count changed
+     * @param count     user's new count
+     */
+    private void updateTop(String userId, long count) {
+        int i = 0;
+
+        // find user in leaderboard
+        while (i < topSize && !topIds[i].equals(userId)) {
+            i++;
+        }
+
+        if (i == topSize) { // not on the leaderboard
+            if (topSize < topK) {
+                topSize++;
+            }
+            else if (count > topCounts[topK - 1]) {
+                i = topK - 1;
+            }
+            else {
+                return;
+            }
+        }
+
+        // move up past lower counts
+        while (i > 0 && topCounts[i - 1] < count) {
+            topIds[i] = topIds[i - 1];
+            topCounts[i] = topCounts[i - 1];
+            i--;
+        }
+
+        topIds[i] = userId;
+        topCounts[i] = count;
+    }
+
+    /**
+     * Return the current snapshot of all aggregates. Cost is bounded by the leaderboard
+     * and histogram sizes.
+     *
+     * @param now   current time (ms), used to compute queue age
+     * @return      snapshot
+     */
+    public synchronized Snapshot snapshot(long now) {
+        Iterator<Long> oldest = pending.values().iterator();
+        long queueAge = oldest.hasNext() ? Math.max(0, now - oldest.next()) : -1;
+        long decisions = accepted + denied;
+
+        String[] ids = new String[topSize];
+        long[] counts = new long[topSize];
+        System.arraycopy(topIds, 0, ids, 0, topSize);
+        System.arraycopy(topCounts, 0, counts, 0, topSize);
+
+        return new Snapshot(submitted, rejected, accepted, denied,
+                decisions == 0 ? -1 : decisionTimeSum / decisions, histogram.clone(),
+                    ids, counts, pending.size(), queueAge);
+    }
+
+    /**
+     * Write the aggregates to the checkpoint file if they changed. The file is written to a
+     * temporary file first and then moved over the old checkpoint.
+     *
+     * Note: Writers are serialized, and changes are only marked as saved once the move succeeded.
+     */
+    public void checkpoint() {
+        synchronized (fileLock) {
+            byte[] data;
+            long saving;
+
+            // serialize under lock, write outside of it
+            synchronized (this) {
+                if (changes == savedChanges) {
+                    return;
+                }
+
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                try (DataOutputStream out = new DataOutputStream(bytes)) {
+                    write(out);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex); // in-memory stream, should never happen
+                }
+
+                data = bytes.toByteArray();
+                saving = changes;
+            }
+
+            try {
+                File tmp = new File(file.getPath() + ".tmp");
+                Files.write(tmp.toPath(), data);
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException ex) {
+                System.out.println("Could not write stats checkpoint: " + ex.getMessage());
+
+                return; // try again next time
+            }
+
+            synchronized (this) {
+                savedChanges = saving;
+            }
+        }
+    }
+
+    /**
+     * Serialize aggregates.
+     *
+     * @param out   output stream
+     * @throws IOException  if writing fails
+     */
+    private void write(DataOutputStream out) throws IOException {
+        out.writeInt(FILE_VERSION);
+
+        out.writeLong(submitted);
+        out.writeLong(rejected);
+        out.writeLong(accepted);
+        out.writeLong(denied);
+        out.writeLong(decisionTimeSum);
+
+        out.writeInt(histogram.length);
+        for (long h : histogram) {
+            out.writeLong(h);
+        }
+
+        out.writeInt(userCounts.size());
+        for (Map.Entry<String, Long> entry : userCounts.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+
+        out.writeInt(pending.size());
+        for (Map.Entry<String, Long> entry : pending.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    /**
+     * Restore aggregates written by write(). The leaderboard is rebuilt from the user counts.
+     *
+     * @param in    input stream
+     * @throws IOException  if reading fails or the format is unknown
+     */
+    private void read(DataInputStream in) throws IOException {
+        if (in.readInt() != FILE_VERSION) {
+            throw new IOException("Unknown checkpoint version.");
+        }
+
+        submitted = in.readLong();
+        rejected = in.readLong();
+        accepted = in.readLong();
+        denied = in.readLong();
+        decisionTimeSum = in.readLong();
+
+        int n = in.readInt();
+        if (n != histogram.length) {
+            throw new IOException("Histogram bucket mismatch.");
+        }
+        for (int i = 0; i < n; i++) {
+            histogram[i] = in.readLong();
+        }
+
+        n = in.readInt();
+        for (int i = 0; i < n; i++) {
+            String id = in.readUTF();
+            long count = in.readLong();
+
+            userCounts.put(id, count);
+            updateTop(id, count);
+        }
+
+        n = in.readInt();
+        for (int i = 0; i < n; i++) {
+            pending.put(in.readUTF(), in.readLong());
+        }
+    }
+
+    /**
+     * Copy of the aggregates at a point in time.
+     */
+    public static class Snapshot {
+        public final long submitted;
+        public final long rejected;
+        public final long accepted;
+        public final long denied;
+        public final long avgDecisionTime; // ms, -1 if no decisions yet
+        public final long[] histogram; // decision counts per BUCKET_BOUNDS bucket
+        public final String[] topIds; // top submitter IDs (descending)
+        public final long[] topCounts; // counts matching topIds
+        public final int pendingCount; // submissions waiting for a decision
+        public final long queueAge; // age of oldest pending submission (ms), -1 if queue is empty
+
+        private Snapshot(long s, long r, long a, long d, long avg, long[] h, String[] ids, long[] counts,
+                         int p, long age) {
+            submitted = s;
+            rejected = r;
+            accepted = a;
+            denied = d;
+            avgDecisionTime = avg;
+            histogram = h;
+            topIds = ids;
+            topCounts = counts;
+            pendingCount = p;
+            queueAge = age;
+        }
+
+        /**
+         * Acceptance rate of curator decisions.
+         *
+         * @return      accepted / decided, or -1 if no decisions yet
+         */
+        public double acceptanceRate() {
+            return accepted + denied == 0 ? -1 : (double) accepted / (accepted + denied);
+        }
+    }
+
+}